@@ -3,7 +3,10 @@ package com.hotel;
 import com.hotel.model.Room;
 import com.hotel.model.Reservation;
 import com.hotel.service.HotelService;
+import com.hotel.service.ReportService;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -12,6 +15,7 @@ import java.util.Scanner;
 
 public class HotelReservationApp {
     private static final HotelService hotelService = new HotelService();
+    private static final ReportService reportService = new ReportService(hotelService::streamReservations);
     private static final Scanner scanner = new Scanner(System.in);
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -21,14 +25,15 @@ public class HotelReservationApp {
         boolean running = true;
         while (running) {
             printMainMenu();
-            int choice = getIntInput("Enter your choice: ", 1, 5);
+            int choice = getIntInput("Enter your choice: ", 1, 6);
             
             switch (choice) {
                 case 1 -> searchAndBookRoom();
                 case 2 -> viewReservation();
                 case 3 -> cancelReservation();
                 case 4 -> processPayment();
-                case 5 -> {
+                case 5 -> exportReports();
+                case 6 -> {
                     System.out.println("Thank you for using the Hotel Reservation System. Goodbye!");
                     running = false;
                 }
@@ -44,7 +49,8 @@ public class HotelReservationApp {
         System.out.println("2. View Reservation Details");
         System.out.println("3. Cancel Reservation");
         System.out.println("4. Process Payment");
-        System.out.println("5. Exit");
+        System.out.println("5. Export Reports");
+        System.out.println("6. Exit");
     }
 
     private static void searchAndBookRoom() {
@@ -182,6 +188,31 @@ public class HotelReservationApp {
         }
     }
 
+    private static void exportReports() {
+        System.out.println("\n=== Export Reports ===");
+        String csvFile = getInput("Enter CSV output file (blank to skip): ");
+        String jsonFile = getInput("Enter JSON output file (blank to skip): ");
+
+        try {
+            if (!csvFile.isEmpty()) {
+                long rows = reportService.exportCsv(Path.of(csvFile));
+                System.out.println("Exported " + rows + " reservations to " + csvFile);
+            }
+            if (!jsonFile.isEmpty()) {
+                long rows = reportService.exportJson(Path.of(jsonFile));
+                System.out.println("Exported " + rows + " reservations to " + jsonFile);
+            }
+        } catch (IOException e) {
+            System.out.println("Error exporting reservations: " + e.getMessage());
+        }
+
+        System.out.println("\nRevenue by Room Type:");
+        reportService.revenueByRoomTypeAndDate().forEach((type, byDate) ->
+                System.out.printf("%s: $%.2f%n", type,
+                        byDate.values().stream().mapToDouble(Double::doubleValue).sum()));
+        System.out.printf("Total Unpaid Balance: $%.2f%n", reportService.totalUnpaidBalance());
+    }
+
     // Utility methods
     private static String getInput(String prompt) {
         System.out.print(prompt);
@@ -7,6 +7,7 @@ import java.io.*;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class HotelService {
     private List<Room> rooms;
@@ -91,6 +92,11 @@ public class HotelService {
         return reservations.get(reservationId);
     }
 
+    public Stream<Reservation> streamReservations() {
+        // Stream straight over the store so reports don't copy it into a list first
+        return reservations.values().stream();
+    }
+
     public void processPayment(String reservationId) {
         Reservation reservation = findReservation(reservationId);
         if (reservation == null) {
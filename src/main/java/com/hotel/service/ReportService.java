@@ -0,0 +1,144 @@
+package com.hotel.service;
+
+import com.hotel.model.Reservation;
+import com.hotel.model.Room;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ReportService {
+    private static final String CSV_HEADER =
+            "reservationId,roomNumber,roomType,guestName,guestEmail,checkIn,checkOut,totalPrice,paid,cancelled";
+
+    private final Supplier<Stream<Reservation>> reservations;
+
+    public ReportService(Supplier<Stream<Reservation>> reservations) {
+        this.reservations = reservations;
+    }
+
+    public long exportCsv(Path file) throws IOException {
+        long rows = 0;
+        // Rows are written one at a time through the buffered writer, so memory stays flat
+        try (Stream<Reservation> stream = reservations.get();
+             BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            Iterator<Reservation> it = stream.iterator();
+            while (it.hasNext()) {
+                Reservation res = it.next();
+                writer.write(String.join(",",
+                        csv(res.getReservationId()),
+                        String.valueOf(res.getRoom().getRoomNumber()),
+                        res.getRoom().getType().name(),
+                        csv(res.getGuestName()),
+                        csv(res.getGuestEmail()),
+                        res.getCheckInDate().toString(),
+                        res.getCheckOutDate().toString(),
+                        String.format(Locale.ROOT, "%.2f", res.getTotalPrice()),
+                        String.valueOf(res.isPaid()),
+                        String.valueOf(res.isCancelled())));
+                writer.newLine();
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    public long exportJson(Path file) throws IOException {
+        long rows = 0;
+        try (Stream<Reservation> stream = reservations.get();
+             BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            Iterator<Reservation> it = stream.iterator();
+            while (it.hasNext()) {
+                Reservation res = it.next();
+                if (rows > 0) {
+                    writer.write(',');
+                }
+                writer.newLine();
+                writer.write(String.format(Locale.ROOT,
+                        "  {\"reservationId\":%s,\"roomNumber\":%d,\"roomType\":\"%s\",\"guestName\":%s,"
+                                + "\"guestEmail\":%s,\"checkIn\":\"%s\",\"checkOut\":\"%s\",\"totalPrice\":%.2f,"
+                                + "\"paid\":%b,\"cancelled\":%b}",
+                        json(res.getReservationId()), res.getRoom().getRoomNumber(), res.getRoom().getType(),
+                        json(res.getGuestName()), json(res.getGuestEmail()),
+                        res.getCheckInDate(), res.getCheckOutDate(), res.getTotalPrice(),
+                        res.isPaid(), res.isCancelled()));
+                rows++;
+            }
+            writer.newLine();
+            writer.write(']');
+            writer.newLine();
+        }
+        return rows;
+    }
+
+    public Map<Room.RoomType, Map<LocalDate, Double>> revenueByRoomTypeAndDate() {
+        // Cancelled bookings earn nothing; revenue is attributed to the check-in date
+        try (Stream<Reservation> stream = reservations.get()) {
+            ConcurrentMap<Room.RoomType, ConcurrentMap<LocalDate, Double>> revenue = stream.parallel()
+                    .filter(res -> !res.isCancelled())
+                    .collect(Collectors.groupingByConcurrent(res -> res.getRoom().getType(),
+                            Collectors.groupingByConcurrent(Reservation::getCheckInDate,
+                                    Collectors.summingDouble(Reservation::getTotalPrice))));
+            return Map.copyOf(revenue);
+        }
+    }
+
+    public Map<String, Double> unpaidBalanceByGuest() {
+        try (Stream<Reservation> stream = reservations.get()) {
+            return stream.parallel()
+                    .filter(res -> !res.isCancelled() && !res.isPaid())
+                    .collect(Collectors.groupingByConcurrent(Reservation::getGuestEmail,
+                            Collectors.summingDouble(Reservation::getTotalPrice)));
+        }
+    }
+
+    public double totalUnpaidBalance() {
+        try (Stream<Reservation> stream = reservations.get()) {
+            return stream.parallel()
+                    .filter(res -> !res.isCancelled() && !res.isPaid())
+                    .mapToDouble(Reservation::getTotalPrice)
+                    .sum();
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String json(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
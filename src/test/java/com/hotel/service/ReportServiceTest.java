@@ -0,0 +1,81 @@
+package com.hotel.service;
+
+import com.hotel.model.Room;
+import com.hotel.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+
+    private ReportService reportService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        Room standard = new Room(101, Room.RoomType.STANDARD, 100.0, 2);
+        Room suite = new Room(301, Room.RoomType.SUITE, 250.0, 6);
+
+        Reservation paid = new Reservation(standard, "Alice", "alice@example.com", DAY, DAY.plusDays(2));
+        paid.processPayment();
+        Reservation unpaid = new Reservation(suite, "Smith, Bob", "bob@example.com", DAY, DAY.plusDays(1));
+        Reservation cancelled = new Reservation(standard, "Carol", "carol@example.com", DAY.plusDays(5), DAY.plusDays(6));
+        cancelled.cancel();
+
+        List<Reservation> reservations = List.of(paid, unpaid, cancelled);
+        reportService = new ReportService(reservations::stream);
+    }
+
+    @Test
+    void testExportCsv() throws IOException {
+        Path file = tempDir.resolve("reservations.csv");
+        long rows = reportService.exportCsv(file);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, rows);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("reservationId,"));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"Smith, Bob\"")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains(",200.00,true,false")));
+    }
+
+    @Test
+    void testExportJson() throws IOException {
+        Path file = tempDir.resolve("reservations.json");
+        long rows = reportService.exportJson(file);
+
+        String json = Files.readString(file).trim();
+        assertEquals(3, rows);
+        assertTrue(json.startsWith("[") && json.endsWith("]"));
+        assertTrue(json.contains("\"guestName\":\"Smith, Bob\""));
+        assertTrue(json.contains("\"totalPrice\":250.00"));
+    }
+
+    @Test
+    void testRevenueByRoomTypeAndDate() {
+        Map<Room.RoomType, Map<LocalDate, Double>> revenue = reportService.revenueByRoomTypeAndDate();
+
+        assertEquals(200.0, revenue.get(Room.RoomType.STANDARD).get(DAY));
+        assertEquals(250.0, revenue.get(Room.RoomType.SUITE).get(DAY));
+        // Cancelled reservation must not count towards revenue
+        assertNull(revenue.get(Room.RoomType.STANDARD).get(DAY.plusDays(5)));
+    }
+
+    @Test
+    void testUnpaidBalances() {
+        assertEquals(250.0, reportService.totalUnpaidBalance());
+        assertEquals(Map.of("bob@example.com", 250.0), reportService.unpaidBalanceByGuest());
+    }
+}